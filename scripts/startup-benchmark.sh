@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-successful-request of park-api.
+#
+# Usage: scripts/startup-benchmark.sh <command to start the application...>
+#
+# Examples:
+#   scripts/startup-benchmark.sh docker run --rm -p 8080:8080 park-api
+#   scripts/startup-benchmark.sh docker run --rm -p 8080:8080 --entrypoint java park-api -jar park-api.jar
+#
+# Environment:
+#   RUNS     number of measured starts (default 5)
+#   URL      endpoint polled until it answers with 2xx (default http://localhost:8080/api/v1/customers)
+#   TIMEOUT  seconds to wait for each start (default 60)
+
+set -euo pipefail
+
+RUNS="${RUNS:-5}"
+URL="${URL:-http://localhost:8080/api/v1/customers}"
+TIMEOUT="${TIMEOUT:-60}"
+
+if [ "$#" -eq 0 ]; then
+  sed -n '3,15p' "$0" | sed 's/^# \{0,1\}//'
+  exit 1
+fi
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+stop() {
+  kill "$1" 2>/dev/null || true
+  wait "$1" 2>/dev/null || true
+}
+
+total=0
+for run in $(seq "$RUNS"); do
+  start=$(now_ms)
+  "$@" >/dev/null 2>&1 &
+  pid=$!
+
+  until curl -fs -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null || [ $(( $(now_ms) - start )) -gt $(( TIMEOUT * 1000 )) ]; then
+      stop "$pid"
+      echo "run $run: application did not answer $URL" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+
+  elapsed=$(( $(now_ms) - start ))
+  total=$(( total + elapsed ))
+  echo "run $run: ${elapsed} ms"
+
+  stop "$pid"
+  while curl -fs -o /dev/null "$URL"; do sleep 0.1; done
+done
+
+echo "average time-to-first-successful-request: $(( total / RUNS )) ms"
@@ -0,0 +1,16 @@
+package com.gabriel.park_api.application.customer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "customer.archive")
+public record CustomerArchiveProperties(
+        boolean enabled,
+        Duration interval,
+        Duration inactiveFor,
+        int batchSize,
+        Duration batchDelay,
+        int maxBatchesPerRun
+) {
+}
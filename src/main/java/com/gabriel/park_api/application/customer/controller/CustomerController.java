@@ -1,27 +1,43 @@
 package com.gabriel.park_api.application.customer.controller;
 
+import com.gabriel.park_api.application.customer.dto.CustomerPatchRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerResponse;
+import com.gabriel.park_api.application.customer.service.CustomerArchiveService;
 import com.gabriel.park_api.application.customer.service.CustomerService;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerVersionMismatchException;
+import com.gabriel.park_api.infrastructure.pagination.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.SchemaProperty;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
 import java.util.UUID;
 
+import static java.lang.String.format;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("api/v1/customers")
 @Tag(name = "Customers", description = "Endpoints for managing customers")
 public class CustomerController {
 
+    private static final String FIELDS_DESCRIPTION = "Comma-separated fields to return, e.g. id,name. Returns all fields when omitted.";
+
     private final CustomerService service;
+    private final CustomerArchiveService archiveService;
 
     @PostMapping
     @Operation(summary = "Create a new customer")
@@ -32,14 +48,50 @@ public class CustomerController {
 
     @GetMapping
     @Operation(summary = "List all active customers (paginated)")
-    public ResponseEntity<Page<CustomerResponse>> findAll(Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+    @ApiResponse(responseCode = "200", description = "OK", content = @Content(schemaProperties = {
+            @SchemaProperty(name = "content", array = @ArraySchema(schema = @Schema(implementation = CustomerResponse.class))),
+            @SchemaProperty(name = "page", schema = @Schema(type = "integer", format = "int32")),
+            @SchemaProperty(name = "size", schema = @Schema(type = "integer", format = "int32")),
+            @SchemaProperty(name = "totalElements", schema = @Schema(type = "integer", format = "int64")),
+            @SchemaProperty(name = "totalPages", schema = @Schema(type = "integer", format = "int32"))
+    }))
+    public ResponseEntity<PageResponse<?>> findAll(Pageable pageable,
+                                                   @Parameter(description = FIELDS_DESCRIPTION)
+                                                   @RequestParam(required = false) Set<String> fields) {
+        if (fields == null)
+            return ResponseEntity.ok(service.findAll(pageable));
+
+        return ResponseEntity.ok(service.findAll(pageable, fields));
     }
 
     @GetMapping("{id}")
     @Operation(summary = "Find customer by ID")
-    public ResponseEntity<CustomerResponse> findById(@PathVariable UUID id) {
-        return ResponseEntity.ok(service.findById(id));
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(schema = @Schema(implementation = CustomerResponse.class)))
+    public ResponseEntity<?> findById(@PathVariable UUID id,
+                                      @Parameter(description = FIELDS_DESCRIPTION)
+                                      @RequestParam(required = false) Set<String> fields) {
+        if (fields == null) {
+            var response = service.findById(id);
+            return ResponseEntity.ok().eTag(String.valueOf(response.version())).body(response);
+        }
+
+        var response = service.findById(id, fields);
+        return ResponseEntity.ok().eTag(String.valueOf(response.version())).body(response);
+    }
+
+    @PatchMapping("{id}")
+    @Operation(summary = "Update a customer's name, email or type by ID")
+    public ResponseEntity<Void> patchById(@PathVariable UUID id,
+                                          @RequestBody @Valid CustomerPatchRequest request,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var expectedVersion = versionFrom(ifMatch);
+        service.patchById(id, request, expectedVersion);
+
+        var response = ResponseEntity.noContent();
+        if (expectedVersion != null)
+            response.eTag(String.valueOf(expectedVersion + 1));
+        return response.build();
     }
 
     @DeleteMapping("{id}")
@@ -48,4 +100,27 @@ public class CustomerController {
         service.inactivateById(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("{id}/restore")
+    @Operation(summary = "Restore an archived customer by ID")
+    public ResponseEntity<Void> restoreById(@PathVariable UUID id) {
+        archiveService.restoreById(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static Long versionFrom(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*"))
+            return null;
+
+        var tag = ifMatch.trim();
+        if (tag.startsWith("W/"))
+            throw new CustomerVersionMismatchException(format("If-Match %s is a weak ETag and cannot be used to update a customer.", ifMatch));
+
+        tag = tag.replace("\"", "");
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException ex) {
+            throw new CustomerVersionMismatchException(format("If-Match %s is not a valid customer version.", ifMatch));
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.gabriel.park_api.application.customer.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gabriel.park_api.application.customer.enums.CustomerType;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record CustomerPatchRequest(
+        @Size(message = "Customer's name should have at least 3 characters.", min = 3)
+        String name,
+
+        @Email(message = "Please, enter a valid email.")
+        @Pattern(message = "Customer's email should not be empty or blank.", regexp = ".*\\S.*")
+        String email,
+
+        CustomerType type
+) {
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one of name, email or type should be informed.")
+    public boolean isAnyFieldInformed() {
+        return name != null || email != null || type != null;
+    }
+}
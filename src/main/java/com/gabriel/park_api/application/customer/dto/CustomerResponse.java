@@ -13,6 +13,7 @@ public record CustomerResponse(
         CustomerType type,
         CustomerStatus status,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {
 }
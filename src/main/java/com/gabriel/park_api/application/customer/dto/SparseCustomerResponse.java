@@ -0,0 +1,15 @@
+package com.gabriel.park_api.application.customer.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Map;
+
+public record SparseCustomerResponse(
+        @JsonValue
+        Map<String, Object> fields,
+
+        @JsonIgnore
+        Long version
+) {
+}
@@ -0,0 +1,19 @@
+package com.gabriel.park_api.application.customer.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CustomerField {
+    ID("id"),
+    NAME("name"),
+    EMAIL("email"),
+    TYPE("type"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    private final String attribute;
+}
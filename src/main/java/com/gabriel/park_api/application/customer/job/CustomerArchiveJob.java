@@ -0,0 +1,43 @@
+package com.gabriel.park_api.application.customer.job;
+
+import com.gabriel.park_api.application.customer.config.CustomerArchiveProperties;
+import com.gabriel.park_api.application.customer.service.CustomerArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(CustomerArchiveProperties.class)
+@ConditionalOnProperty(prefix = "customer.archive", name = "enabled", havingValue = "true")
+public class CustomerArchiveJob {
+
+    private final CustomerArchiveService service;
+    private final CustomerArchiveProperties properties;
+
+    @Scheduled(initialDelayString = "${customer.archive.interval}", fixedDelayString = "${customer.archive.interval}")
+    public void archive() {
+        var inactiveBefore = LocalDateTime.now().minus(properties.inactiveFor());
+
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            if (service.archiveBatch(inactiveBefore, properties.batchSize()) < properties.batchSize() || !pause())
+                break;
+        }
+
+        service.refreshBacklog(inactiveBefore);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.batchDelay());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gabriel.park_api.application.customer.model;
+
+import com.gabriel.park_api.application.customer.enums.CustomerStatus;
+import com.gabriel.park_api.application.customer.enums.CustomerType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "CUSTOMER_ARCHIVE")
+@Entity(name = "CUSTOMER_ARCHIVE")
+public class ArchivedCustomer {
+
+    @Id
+    @Column(name = "ID")
+    private UUID id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "TYPE")
+    @Enumerated(EnumType.STRING)
+    private CustomerType type;
+
+    @Column(name = "STATUS")
+    @Enumerated(EnumType.STRING)
+    private CustomerStatus status;
+
+    @Column(name = "CREATED_AT")
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "VERSION")
+    private Long version;
+
+    @Column(name = "ARCHIVED_AT")
+    private LocalDateTime archivedAt;
+}
@@ -16,7 +16,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "CUSTOMER")
+@Table(name = "CUSTOMER", indexes = @Index(name = "IDX_CUSTOMER_STATUS_UPDATED_AT", columnList = "STATUS, UPDATED_AT"))
 @Entity(name = "CUSTOMER")
 @EntityListeners(AuditingEntityListener.class)
 public class Customer {
@@ -47,4 +47,8 @@ public class Customer {
     @LastModifiedDate
     @Column(name = "UPDATED_AT")
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
 }
@@ -0,0 +1,24 @@
+package com.gabriel.park_api.application.customer.repository;
+
+import com.gabriel.park_api.application.customer.model.ArchivedCustomer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedCustomerRepository extends JpaRepository<ArchivedCustomer, UUID> {
+
+    @Modifying
+    @Query("""
+            insert into CUSTOMER_ARCHIVE (id, name, email, type, status, createdAt, updatedAt, version, archivedAt)
+            select c.id, c.name, c.email, c.type, c.status, c.createdAt, c.updatedAt, c.version, :archivedAt
+            from CUSTOMER c
+            where c.id in :ids
+            """)
+    int archiveAllById(Collection<UUID> ids, LocalDateTime archivedAt);
+}
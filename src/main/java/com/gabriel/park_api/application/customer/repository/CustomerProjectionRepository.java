@@ -0,0 +1,18 @@
+package com.gabriel.park_api.application.customer.repository;
+
+import com.gabriel.park_api.application.customer.enums.CustomerField;
+import com.gabriel.park_api.application.customer.enums.CustomerStatus;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface CustomerProjectionRepository {
+
+    Page<Tuple> findAllByStatus(Pageable pageable, CustomerStatus status, Set<CustomerField> fields);
+
+    Optional<Tuple> findByIdAndStatus(UUID id, CustomerStatus status, Set<CustomerField> fields);
+}
@@ -0,0 +1,71 @@
+package com.gabriel.park_api.application.customer.repository;
+
+import com.gabriel.park_api.application.customer.enums.CustomerField;
+import com.gabriel.park_api.application.customer.enums.CustomerStatus;
+import com.gabriel.park_api.application.customer.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class CustomerProjectionRepositoryImpl implements CustomerProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findAllByStatus(Pageable pageable, CustomerStatus status, Set<CustomerField> fields) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Customer.class);
+
+        select(query, root, fields)
+                .where(cb.equal(root.get("status"), status))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> countByStatus(status));
+    }
+
+    @Override
+    public Optional<Tuple> findByIdAndStatus(UUID id, CustomerStatus status, Set<CustomerField> fields) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Customer.class);
+
+        select(query, root, fields)
+                .where(cb.equal(root.get("id"), id), cb.equal(root.get("status"), status));
+
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    private CriteriaQuery<Tuple> select(CriteriaQuery<Tuple> query, Root<Customer> root, Set<CustomerField> fields) {
+        return query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field.getAttribute()).alias(field.getAttribute()))
+                .toList());
+    }
+
+    private long countByStatus(CustomerStatus status) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        var root = query.from(Customer.class);
+
+        query.select(cb.count(root)).where(cb.equal(root.get("status"), status));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
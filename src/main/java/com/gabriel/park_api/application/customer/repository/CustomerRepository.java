@@ -1,21 +1,59 @@
 package com.gabriel.park_api.application.customer.repository;
 
 import com.gabriel.park_api.application.customer.enums.CustomerStatus;
+import com.gabriel.park_api.application.customer.enums.CustomerType;
 import com.gabriel.park_api.application.customer.model.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, CustomerProjectionRepository {
 
     Page<Customer> findAllByStatus(Pageable pageable, CustomerStatus status);
 
     Optional<Customer> findByIdAndStatus(UUID id, CustomerStatus status);
 
     Optional<Customer> findByEmailAndStatus(String email, CustomerStatus status);
+
+    @Query("select c.id from CUSTOMER c where c.status = :status and c.updatedAt < :updatedBefore order by c.updatedAt")
+    List<UUID> findIdsByStatusAndUpdatedAtBefore(CustomerStatus status, LocalDateTime updatedBefore, Limit limit);
+
+    long countByStatusAndUpdatedAtBefore(CustomerStatus status, LocalDateTime updatedBefore);
+
+    @Modifying
+    @Query("""
+            insert into CUSTOMER (id, name, email, type, status, createdAt, updatedAt, version)
+            select a.id, a.name, a.email, a.type, a.status, a.createdAt, :restoredAt, a.version
+            from CUSTOMER_ARCHIVE a
+            where a.id = :id
+            """)
+    int restoreById(UUID id, LocalDateTime restoredAt);
+
+    @Modifying
+    @Query("""
+            update CUSTOMER c
+            set c.name = coalesce(:name, c.name),
+                c.email = coalesce(:email, c.email),
+                c.type = coalesce(:type, c.type),
+                c.updatedAt = :updatedAt,
+                c.version = c.version + 1
+            where c.id = :id
+              and c.status = :status
+              and (:version is null or c.version = :version)
+            """)
+    int updateByIdAndStatusAndVersion(UUID id, CustomerStatus status, Long version,
+                                      String name, String email, CustomerType type, LocalDateTime updatedAt);
+
+    @Query("select c.version from CUSTOMER c where c.id = :id and c.status = :status")
+    Optional<Long> findVersionByIdAndStatus(UUID id, CustomerStatus status);
 }
@@ -0,0 +1,69 @@
+package com.gabriel.park_api.application.customer.service;
+
+import com.gabriel.park_api.application.customer.repository.ArchivedCustomerRepository;
+import com.gabriel.park_api.application.customer.repository.CustomerRepository;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.gabriel.park_api.application.customer.enums.CustomerStatus.INACTIVE;
+import static java.lang.String.format;
+
+@Service
+public class CustomerArchiveService {
+
+    private final CustomerRepository customerRepository;
+    private final ArchivedCustomerRepository archivedCustomerRepository;
+    private final AtomicLong backlog;
+    private final Counter archived;
+    private final Counter restored;
+    private final Timer batchTimer;
+
+    public CustomerArchiveService(CustomerRepository customerRepository,
+                                  ArchivedCustomerRepository archivedCustomerRepository,
+                                  MeterRegistry meterRegistry) {
+        this.customerRepository = customerRepository;
+        this.archivedCustomerRepository = archivedCustomerRepository;
+        this.backlog = meterRegistry.gauge("customer.archive.backlog", new AtomicLong());
+        this.archived = meterRegistry.counter("customer.archive.archived");
+        this.restored = meterRegistry.counter("customer.archive.restored");
+        this.batchTimer = meterRegistry.timer("customer.archive.batch");
+    }
+
+    @Transactional
+    public int archiveBatch(LocalDateTime inactiveBefore, int batchSize) {
+        return batchTimer.record(() -> {
+            List<UUID> ids = customerRepository.findIdsByStatusAndUpdatedAtBefore(INACTIVE, inactiveBefore, Limit.of(batchSize));
+            if (ids.isEmpty())
+                return 0;
+
+            archivedCustomerRepository.archiveAllById(ids, LocalDateTime.now());
+            customerRepository.deleteAllByIdInBatch(ids);
+            archived.increment(ids.size());
+            return ids.size();
+        });
+    }
+
+    @Transactional
+    public void restoreById(UUID id) {
+        if (customerRepository.restoreById(id, LocalDateTime.now()) == 0)
+            throw new CustomerNotFoundException(format("Archived customer with id %s not found", id));
+
+        archivedCustomerRepository.deleteAllByIdInBatch(List.of(id));
+        restored.increment();
+    }
+
+    public long refreshBacklog(LocalDateTime inactiveBefore) {
+        backlog.set(customerRepository.countByStatusAndUpdatedAtBefore(INACTIVE, inactiveBefore));
+        return backlog.get();
+    }
+}
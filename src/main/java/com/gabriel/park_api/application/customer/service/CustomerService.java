@@ -1,17 +1,28 @@
 package com.gabriel.park_api.application.customer.service;
 
+import com.gabriel.park_api.application.customer.dto.CustomerPatchRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerResponse;
+import com.gabriel.park_api.application.customer.dto.SparseCustomerResponse;
+import com.gabriel.park_api.application.customer.enums.CustomerField;
 import com.gabriel.park_api.application.customer.enums.CustomerStatus;
 import com.gabriel.park_api.application.customer.repository.CustomerRepository;
 import com.gabriel.park_api.application.customer.utils.transformer.CustomerTransformer;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerAlreadyExistsException;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerNotFoundException;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerVersionMismatchException;
+import com.gabriel.park_api.infrastructure.exception.model.InvalidFieldException;
+import com.gabriel.park_api.infrastructure.pagination.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.gabriel.park_api.application.customer.enums.CustomerStatus.ACTIVE;
@@ -29,8 +40,14 @@ public class CustomerService {
         repository.save(customer);
     }
 
-    public Page<CustomerResponse> findAll(Pageable pageable) {
-        return repository.findAllByStatus(pageable, ACTIVE).map(CustomerTransformer::responseFrom);
+    public PageResponse<CustomerResponse> findAll(Pageable pageable) {
+        return PageResponse.of(repository.findAllByStatus(pageable, ACTIVE), CustomerTransformer::responseFrom);
+    }
+
+    public PageResponse<Map<String, Object>> findAll(Pageable pageable, Set<String> fields) {
+        var customerFields = fieldsFrom(fields);
+        return PageResponse.of(repository.findAllByStatus(pageable, ACTIVE, customerFields),
+                tuple -> CustomerTransformer.sparseResponseFrom(tuple, customerFields));
     }
 
     public CustomerResponse findById(UUID id) {
@@ -39,6 +56,32 @@ public class CustomerService {
                 .orElseThrow(() -> new CustomerNotFoundException(format("Customer with id %s not found", id)));
     }
 
+    public SparseCustomerResponse findById(UUID id, Set<String> fields) {
+        var customerFields = fieldsFrom(fields);
+        var selectedFields = EnumSet.copyOf(customerFields);
+        selectedFields.add(CustomerField.VERSION);
+
+        return repository.findByIdAndStatus(id, ACTIVE, selectedFields)
+                .map(tuple -> CustomerTransformer.sparseResponseWithVersionFrom(tuple, customerFields))
+                .orElseThrow(() -> new CustomerNotFoundException(format("Customer with id %s not found", id)));
+    }
+
+    @Transactional
+    public void patchById(UUID id, CustomerPatchRequest request, Long expectedVersion) {
+        if (request.email() != null)
+            validateEmailIsAvailable(id, request.email());
+
+        var updated = repository.updateByIdAndStatusAndVersion(id, ACTIVE, expectedVersion,
+                request.name(), request.email(), request.type(), LocalDateTime.now());
+
+        if (updated == 0) {
+            var currentVersion = repository.findVersionByIdAndStatus(id, ACTIVE)
+                    .orElseThrow(() -> new CustomerNotFoundException(format("Customer with id %s not found", id)));
+            throw new CustomerVersionMismatchException(
+                    format("Customer with id %s is at version %s, not %s.", id, currentVersion, expectedVersion));
+        }
+    }
+
     public void inactivateById(UUID id) {
         var customer = repository.findById(id)
                 .orElseThrow(() -> new CustomerNotFoundException(format("Customer with id %s not found", id)));
@@ -52,4 +95,22 @@ public class CustomerService {
         if (customer.isPresent())
             throw new CustomerAlreadyExistsException(format("Customer with email %s already exists.", email));
     }
+
+    private void validateEmailIsAvailable(final UUID id, final String email) {
+        var customer = repository.findByEmailAndStatus(email, ACTIVE);
+        if (customer.isPresent() && !customer.get().getId().equals(id))
+            throw new CustomerAlreadyExistsException(format("Customer with email %s already exists.", email));
+    }
+
+    private Set<CustomerField> fieldsFrom(final Set<String> fields) {
+        if (fields == null || fields.isEmpty())
+            throw new InvalidFieldException("At least one field should be requested.");
+
+        var customerFields = EnumSet.noneOf(CustomerField.class);
+        fields.forEach(field -> customerFields.add(Arrays.stream(CustomerField.values())
+                .filter(customerField -> customerField.getAttribute().equals(field.trim()))
+                .findFirst()
+                .orElseThrow(() -> new InvalidFieldException(format("Field %s is not supported.", field)))));
+        return customerFields;
+    }
 }
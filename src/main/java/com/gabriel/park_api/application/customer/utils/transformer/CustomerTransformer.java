@@ -2,7 +2,14 @@ package com.gabriel.park_api.application.customer.utils.transformer;
 
 import com.gabriel.park_api.application.customer.dto.CustomerRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerResponse;
+import com.gabriel.park_api.application.customer.dto.SparseCustomerResponse;
+import com.gabriel.park_api.application.customer.enums.CustomerField;
 import com.gabriel.park_api.application.customer.model.Customer;
+import jakarta.persistence.Tuple;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import static com.gabriel.park_api.application.customer.enums.CustomerStatus.ACTIVE;
 
@@ -29,7 +36,18 @@ public class CustomerTransformer {
                 customer.getType(),
                 customer.getStatus(),
                 customer.getCreatedAt(),
-                customer.getUpdatedAt()
+                customer.getUpdatedAt(),
+                customer.getVersion()
         );
     }
+
+    public static Map<String, Object> sparseResponseFrom(Tuple tuple, Set<CustomerField> fields) {
+        var response = new LinkedHashMap<String, Object>();
+        fields.forEach(field -> response.put(field.getAttribute(), tuple.get(field.getAttribute())));
+        return response;
+    }
+
+    public static SparseCustomerResponse sparseResponseWithVersionFrom(Tuple tuple, Set<CustomerField> fields) {
+        return new SparseCustomerResponse(sparseResponseFrom(tuple, fields), tuple.get(CustomerField.VERSION.getAttribute(), Long.class));
+    }
 }
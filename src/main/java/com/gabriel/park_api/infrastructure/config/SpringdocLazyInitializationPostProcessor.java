@@ -0,0 +1,30 @@
+package com.gabriel.park_api.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+@Component
+public class SpringdocLazyInitializationPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        Arrays.stream(beanFactory.getBeanDefinitionNames())
+                .map(beanFactory::getBeanDefinition)
+                .filter(definition -> sourceClassName(definition).startsWith(SPRINGDOC_PACKAGE))
+                .forEach(definition -> definition.setLazyInit(true));
+    }
+
+    private String sourceClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null)
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+
+        return definition.getBeanClassName() == null ? "" : definition.getBeanClassName();
+    }
+}
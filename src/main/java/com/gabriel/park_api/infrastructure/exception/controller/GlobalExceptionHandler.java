@@ -3,6 +3,9 @@ package com.gabriel.park_api.infrastructure.exception.controller;
 import com.gabriel.park_api.infrastructure.exception.dto.ErrorResponse;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerAlreadyExistsException;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerNotFoundException;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerVersionMismatchException;
+import com.gabriel.park_api.infrastructure.exception.model.InvalidFieldException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -42,6 +45,25 @@ public class GlobalExceptionHandler {
         return List.of(new ErrorResponse(ALREADY_EXISTENT_CONTENT.name(), ex.getMessage()));
     }
 
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(CustomerVersionMismatchException.class)
+    public List<ErrorResponse> handle(CustomerVersionMismatchException ex) {
+        return List.of(new ErrorResponse(VERSION_MISMATCH.name(), ex.getMessage()));
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public List<ErrorResponse> handle(OptimisticLockingFailureException ex) {
+        return List.of(new ErrorResponse(CONCURRENT_MODIFICATION.name(),
+                "Customer was modified by another request, please reload it and try again."));
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidFieldException.class)
+    public List<ErrorResponse> handle(InvalidFieldException ex) {
+        return List.of(new ErrorResponse(VALIDATION_ERROR.name(), ex.getMessage()));
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public List<ErrorResponse> handle(HttpMessageNotReadableException ex) {
@@ -4,5 +4,7 @@ public enum ErrorCode {
     UNKNOWN_ERROR,
     VALIDATION_ERROR,
     NOT_FOUND,
-    ALREADY_EXISTENT_CONTENT
+    ALREADY_EXISTENT_CONTENT,
+    VERSION_MISMATCH,
+    CONCURRENT_MODIFICATION
 }
@@ -0,0 +1,8 @@
+package com.gabriel.park_api.infrastructure.exception.model;
+
+public class CustomerVersionMismatchException extends RuntimeException {
+
+    public CustomerVersionMismatchException(String message) {
+        super(message);
+    }
+}
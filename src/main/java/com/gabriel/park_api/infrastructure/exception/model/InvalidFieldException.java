@@ -0,0 +1,8 @@
+package com.gabriel.park_api.infrastructure.exception.model;
+
+public class InvalidFieldException extends RuntimeException {
+
+    public InvalidFieldException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.gabriel.park_api.infrastructure.pagination.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.gabriel.park_api.infrastructure.pagination.serializer.PageResponseSerializer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@JsonSerialize(using = PageResponseSerializer.class)
+public final class PageResponse<T> {
+
+    @Getter(AccessLevel.NONE)
+    private final List<?> source;
+
+    @Getter(AccessLevel.NONE)
+    private final Function<Object, ? extends T> mapper;
+
+    private final int page;
+
+    private final int size;
+
+    private final long totalElements;
+
+    private final int totalPages;
+
+    @SuppressWarnings("unchecked")
+    private <S> PageResponse(Page<S> page, Function<? super S, ? extends T> mapper) {
+        this.source = page.getContent();
+        this.mapper = item -> mapper.apply((S) item);
+        this.page = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+    }
+
+    public static <S, T> PageResponse<T> of(Page<S> page, Function<? super S, ? extends T> mapper) {
+        return new PageResponse<>(page, mapper);
+    }
+
+    public void writeContent(ContentWriter<? super T> writer) throws IOException {
+        for (Object item : source)
+            writer.write(mapper.apply(item));
+    }
+
+    public List<T> getContent() {
+        return source.stream().<T>map(mapper).toList();
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter<T> {
+        void write(T item) throws IOException;
+    }
+}
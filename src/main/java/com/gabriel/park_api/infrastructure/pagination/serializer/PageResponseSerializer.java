@@ -0,0 +1,32 @@
+package com.gabriel.park_api.infrastructure.pagination.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.gabriel.park_api.infrastructure.pagination.dto.PageResponse;
+
+import java.io.IOException;
+
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    @SuppressWarnings("unchecked")
+    public PageResponseSerializer() {
+        super((Class<PageResponse<?>>) (Class<?>) PageResponse.class);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+
+        gen.writeArrayFieldStart("content");
+        value.writeContent(item -> provider.defaultSerializeValue(item, gen));
+        gen.writeEndArray();
+
+        gen.writeNumberField("page", value.getPage());
+        gen.writeNumberField("size", value.getSize());
+        gen.writeNumberField("totalElements", value.getTotalElements());
+        gen.writeNumberField("totalPages", value.getTotalPages());
+
+        gen.writeEndObject();
+    }
+}
@@ -1,18 +1,25 @@
 package com.gabriel.park_api.application.customer.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.park_api.application.customer.dto.CustomerPatchRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerResponse;
+import com.gabriel.park_api.application.customer.dto.SparseCustomerResponse;
 import com.gabriel.park_api.application.customer.enums.CustomerType;
+import com.gabriel.park_api.application.customer.service.CustomerArchiveService;
 import com.gabriel.park_api.application.customer.service.CustomerService;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerAlreadyExistsException;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerNotFoundException;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerVersionMismatchException;
+import com.gabriel.park_api.infrastructure.exception.model.InvalidFieldException;
+import com.gabriel.park_api.infrastructure.pagination.dto.PageResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,14 +27,21 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static com.gabriel.park_api.application.customer.utils.CustomerTestUtils.createCustomerRequest;
 import static com.gabriel.park_api.application.customer.utils.CustomerTestUtils.createCustomerResponse;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +56,9 @@ class CustomerControllerTest {
     @MockBean
     private CustomerService service;
 
+    @MockBean
+    private CustomerArchiveService archiveService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -111,7 +128,7 @@ class CustomerControllerTest {
     void findAllShouldReturnItemsPageWhenHasContent() throws Exception {
         Pageable pageable = PageRequest.of(0, 10);
         when(service.findAll(any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(response), pageable, 1));
+                .thenReturn(PageResponse.of(new PageImpl<>(List.of(response), pageable, 1), Function.identity()));
 
         mockMvc.perform(get("/api/v1/customers")
                         .param("page", "0")
@@ -121,21 +138,58 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.content[0].name").value("Gabriel"))
                 .andExpect(jsonPath("$.content[0].email").value("gabriel@test.com"))
                 .andExpect(jsonPath("$.content[0].type").value("BUSINESS"))
-                .andExpect(jsonPath("$.content[0].status").value("ACTIVE"));
+                .andExpect(jsonPath("$.content[0].status").value("ACTIVE"))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.totalPages").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
     }
 
     @Test
     void findAllShouldReturnEmptyPageWhenHasNoContent() throws Exception {
         Pageable pageable = PageRequest.of(0, 10);
         when(service.findAll(any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+                .thenReturn(PageResponse.of(new PageImpl<>(List.of(), pageable, 0), Function.identity()));
 
         mockMvc.perform(get("/api/v1/customers")
                         .param("page", "0")
                         .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content").isEmpty());
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void findAllShouldReturnOnlyRequestedFieldsWhenFieldsAreGiven() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        Map<String, Object> sparseResponse = Map.of("id", customerId, "name", "Gabriel");
+        when(service.findAll(any(Pageable.class), eq(Set.of("id", "name"))))
+                .thenReturn(PageResponse.of(new PageImpl<>(List.of(sparseResponse), pageable, 1), Function.identity()));
+
+        mockMvc.perform(get("/api/v1/customers")
+                        .param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(customerId.toString()))
+                .andExpect(jsonPath("$.content[0].name").value("Gabriel"))
+                .andExpect(jsonPath("$.content[0].email").doesNotExist())
+                .andExpect(jsonPath("$.content[0].createdAt").doesNotExist());
+
+        verify(service, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void findAllShouldReturnBadRequestWhenFieldIsNotSupported() throws Exception {
+        String errorMessage = "Field password is not supported.";
+        when(service.findAll(any(Pageable.class), anySet())).thenThrow(new InvalidFieldException(errorMessage));
+
+        mockMvc.perform(get("/api/v1/customers")
+                        .param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$[0].message").value(errorMessage));
     }
 
     @Test
@@ -146,7 +200,25 @@ class CustomerControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(customerId.toString()))
                 .andExpect(jsonPath("$.name").value("Gabriel"))
-                .andExpect(jsonPath("$.email").value("gabriel@test.com"));
+                .andExpect(jsonPath("$.email").value("gabriel@test.com"))
+                .andExpect(header().string("ETag", "\"0\""));
+    }
+
+    @Test
+    void findByIdShouldReturnOnlyRequestedFieldsWhenFieldsAreGiven() throws Exception {
+        when(service.findById(customerId, Set.of("email")))
+                .thenReturn(new SparseCustomerResponse(Map.of("email", "gabriel@test.com"), 2L));
+
+        mockMvc.perform(get("/api/v1/customers/{id}", customerId)
+                        .param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("gabriel@test.com"))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.name").doesNotExist())
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andExpect(header().string("ETag", "\"2\""));
+
+        verify(service, never()).findById(customerId);
     }
 
     @Test
@@ -160,6 +232,107 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$[0].message").value(errorMessage));
     }
 
+    @Test
+    void patchByIdShouldReturnNoContentWithNewETagWhenVersionMatches() throws Exception {
+        var patchRequest = new CustomerPatchRequest("Leslie", null, null);
+        doNothing().when(service).patchById(customerId, patchRequest, 3L);
+
+        mockMvc.perform(patch("/api/v1/customers/{id}", customerId)
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void patchByIdShouldUpdateUnconditionallyWhenIfMatchIsMissing() throws Exception {
+        var patchRequest = new CustomerPatchRequest(null, "leslie@pawnee.gov", null);
+
+        mockMvc.perform(patch("/api/v1/customers/{id}", customerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().doesNotExist("ETag"));
+
+        verify(service, times(1)).patchById(eq(customerId), eq(patchRequest), isNull());
+    }
+
+    @Test
+    void patchByIdShouldReturnBadRequestWhenBodyIsInvalid() throws Exception {
+        var patchRequest = new CustomerPatchRequest("ab", "email", null);
+
+        mockMvc.perform(patch("/api/v1/customers/{id}", customerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[*].code").value(everyItem(is("VALIDATION_ERROR"))));
+
+        verify(service, never()).patchById(any(), any(), any());
+    }
+
+    @Test
+    void patchByIdShouldReturnBadRequestWhenBodyHasNoField() throws Exception {
+        mockMvc.perform(patch("/api/v1/customers/{id}", customerId)
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$[0].message").value("At least one of name, email or type should be informed."));
+
+        verify(service, never()).patchById(any(), any(), any());
+    }
+
+    @Test
+    void patchByIdShouldReturnPreconditionFailedWhenVersionDoesNotMatch() throws Exception {
+        var patchRequest = new CustomerPatchRequest("Leslie", null, null);
+        String errorMessage = "Customer with id " + customerId + " is at version 4, not 3.";
+        doThrow(new CustomerVersionMismatchException(errorMessage)).when(service).patchById(customerId, patchRequest, 3L);
+
+        mockMvc.perform(patch("/api/v1/customers/{id}", customerId)
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$[0].code").value("VERSION_MISMATCH"))
+                .andExpect(jsonPath("$[0].message").value(errorMessage));
+    }
+
+    @Test
+    void patchByIdShouldReturnPreconditionFailedWhenIfMatchIsNotAVersion() throws Exception {
+        mockMvc.perform(patch("/api/v1/customers/{id}", customerId)
+                        .header("If-Match", "\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CustomerPatchRequest("Leslie", null, null))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$[0].code").value("VERSION_MISMATCH"));
+
+        verify(service, never()).patchById(any(), any(), any());
+    }
+
+    @Test
+    void patchByIdShouldReturnPreconditionFailedWhenIfMatchIsWeak() throws Exception {
+        mockMvc.perform(patch("/api/v1/customers/{id}", customerId)
+                        .header("If-Match", "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CustomerPatchRequest("Leslie", null, null))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$[0].code").value("VERSION_MISMATCH"))
+                .andExpect(jsonPath("$[0].message").value("If-Match W/\"3\" is a weak ETag and cannot be used to update a customer."));
+
+        verify(service, never()).patchById(any(), any(), any());
+    }
+
+    @Test
+    void inactivateByIdShouldReturnConflictWhenCustomerIsModifiedConcurrently() throws Exception {
+        doThrow(new OptimisticLockingFailureException("Row was updated")).when(service).inactivateById(customerId);
+
+        mockMvc.perform(delete("/api/v1/customers/{id}", customerId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$[0].code").value("CONCURRENT_MODIFICATION"));
+    }
+
     @Test
     void inactivateByIdShouldReturnNoContentWhenExists() throws Exception {
         doNothing().when(service).inactivateById(customerId);
@@ -176,4 +349,21 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$[0].code").value("NOT_FOUND"))
                 .andExpect(jsonPath("$[0].message").value(errorMessage));
     }
+
+    @Test
+    void restoreByIdShouldReturnNoContentWhenArchived() throws Exception {
+        doNothing().when(archiveService).restoreById(customerId);
+        mockMvc.perform(post("/api/v1/customers/{id}/restore", customerId)).andExpect(status().isNoContent());
+    }
+
+    @Test
+    void restoreByIdShouldThrowExWhenCustomerIsNotArchived() throws Exception {
+        String errorMessage = "Archived customer with id " + customerId + " not found";
+        doThrow(new CustomerNotFoundException(errorMessage)).when(archiveService).restoreById(customerId);
+
+        mockMvc.perform(post("/api/v1/customers/{id}/restore", customerId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$[0].code").value("NOT_FOUND"))
+                .andExpect(jsonPath("$[0].message").value(errorMessage));
+    }
 }
@@ -0,0 +1,50 @@
+package com.gabriel.park_api.application.customer.job;
+
+import com.gabriel.park_api.application.customer.config.CustomerArchiveProperties;
+import com.gabriel.park_api.application.customer.service.CustomerArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CustomerArchiveJobTest {
+
+    @Mock
+    private CustomerArchiveService service;
+
+    private CustomerArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        var properties = new CustomerArchiveProperties(true, Duration.ofHours(1), Duration.ofDays(30), 10, Duration.ZERO, 3);
+        job = new CustomerArchiveJob(service, properties);
+    }
+
+    @Test
+    void archiveShouldStopWhenBatchIsNotFull() {
+        when(service.archiveBatch(any(LocalDateTime.class), eq(10))).thenReturn(10, 4);
+
+        job.archive();
+
+        verify(service, times(2)).archiveBatch(any(LocalDateTime.class), eq(10));
+        verify(service, times(1)).refreshBacklog(any(LocalDateTime.class));
+    }
+
+    @Test
+    void archiveShouldStopWhenMaxBatchesPerRunIsReached() {
+        when(service.archiveBatch(any(LocalDateTime.class), eq(10))).thenReturn(10);
+
+        job.archive();
+
+        verify(service, times(3)).archiveBatch(any(LocalDateTime.class), eq(10));
+        verify(service, times(1)).refreshBacklog(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,134 @@
+package com.gabriel.park_api.application.customer.service;
+
+import com.gabriel.park_api.infrastructure.exception.model.CustomerNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest
+class CustomerArchiveServiceDatabaseTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2000, 1, 1, 10, 0);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2000, 6, 1, 10, 0);
+    private static final LocalDateTime INACTIVE_BEFORE = LocalDateTime.of(2001, 1, 1, 0, 0);
+
+    @Autowired
+    private CustomerArchiveService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> customerIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        customerIds.forEach(id -> {
+            jdbcTemplate.update("DELETE FROM CUSTOMER WHERE ID = ?", id);
+            jdbcTemplate.update("DELETE FROM CUSTOMER_ARCHIVE WHERE ID = ?", id);
+        });
+    }
+
+    @Test
+    void archiveBatchShouldCopyEveryColumnAndRemoveCustomer() {
+        var customerId = insertCustomer("INACTIVE", UPDATED_AT, 7L);
+
+        var archived = service.archiveBatch(INACTIVE_BEFORE, 10);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(findCustomer(customerId)).isEmpty();
+        assertThat(findArchivedCustomer(customerId)).singleElement().satisfies(row -> {
+            assertThat(row.get("NAME")).isEqualTo("Archived " + customerId);
+            assertThat(row.get("EMAIL")).isEqualTo(customerId + "@test.com");
+            assertThat(row.get("TYPE")).isEqualTo("VENDOR");
+            assertThat(row.get("STATUS")).isEqualTo("INACTIVE");
+            assertThat(row.get("CREATED_AT")).isEqualTo(Timestamp.valueOf(CREATED_AT));
+            assertThat(row.get("UPDATED_AT")).isEqualTo(Timestamp.valueOf(UPDATED_AT));
+            assertThat(row.get("VERSION")).isEqualTo(7L);
+            assertThat(row.get("ARCHIVED_AT")).isNotNull();
+        });
+    }
+
+    @Test
+    void archiveBatchShouldMoveOnlyEligibleCustomersUpToBatchSize() {
+        var eligible = List.of(
+                insertCustomer("INACTIVE", UPDATED_AT, 0L),
+                insertCustomer("INACTIVE", UPDATED_AT.plusDays(1), 0L),
+                insertCustomer("INACTIVE", UPDATED_AT.plusDays(2), 0L));
+        var active = insertCustomer("ACTIVE", UPDATED_AT, 0L);
+        var recentlyInactive = insertCustomer("INACTIVE", INACTIVE_BEFORE.plusDays(1), 0L);
+
+        var archived = service.archiveBatch(INACTIVE_BEFORE, 2);
+
+        assertThat(archived).isEqualTo(2);
+        assertThat(findArchivedCustomer(eligible.get(0))).hasSize(1);
+        assertThat(findArchivedCustomer(eligible.get(1))).hasSize(1);
+        assertThat(findCustomer(eligible.get(0))).isEmpty();
+        assertThat(findCustomer(eligible.get(1))).isEmpty();
+        assertThat(findCustomer(eligible.get(2))).hasSize(1);
+        assertThat(findCustomer(active)).hasSize(1);
+        assertThat(findCustomer(recentlyInactive)).hasSize(1);
+        assertThat(findArchivedCustomer(eligible.get(2))).isEmpty();
+    }
+
+    @Test
+    void restoreByIdShouldMoveArchivedCustomerBackAsInactive() {
+        var customerId = insertCustomer("INACTIVE", UPDATED_AT, 3L);
+        service.archiveBatch(INACTIVE_BEFORE, 10);
+
+        service.restoreById(customerId);
+
+        assertThat(findArchivedCustomer(customerId)).isEmpty();
+        assertThat(findCustomer(customerId)).singleElement().satisfies(row -> {
+            assertThat(row.get("NAME")).isEqualTo("Archived " + customerId);
+            assertThat(row.get("EMAIL")).isEqualTo(customerId + "@test.com");
+            assertThat(row.get("TYPE")).isEqualTo("VENDOR");
+            assertThat(row.get("STATUS")).isEqualTo("INACTIVE");
+            assertThat(row.get("CREATED_AT")).isEqualTo(Timestamp.valueOf(CREATED_AT));
+            assertThat(((Timestamp) row.get("UPDATED_AT")).toLocalDateTime()).isAfter(INACTIVE_BEFORE);
+            assertThat(row.get("VERSION")).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void restoreByIdShouldThrowExceptionWhenCustomerIsNotArchived() {
+        var customerId = insertCustomer("INACTIVE", UPDATED_AT, 0L);
+
+        assertThatExceptionOfType(CustomerNotFoundException.class)
+                .isThrownBy(() -> service.restoreById(customerId))
+                .withMessage(format("Archived customer with id %s not found", customerId));
+
+        assertThat(findCustomer(customerId)).hasSize(1);
+    }
+
+    private UUID insertCustomer(String status, LocalDateTime updatedAt, long version) {
+        var id = UUID.randomUUID();
+        customerIds.add(id);
+        jdbcTemplate.update("""
+                        INSERT INTO CUSTOMER (ID, NAME, EMAIL, TYPE, STATUS, CREATED_AT, UPDATED_AT, VERSION)
+                        VALUES (?, ?, ?, 'VENDOR', ?, ?, ?, ?)
+                        """,
+                id, "Archived " + id, id + "@test.com", status, CREATED_AT, updatedAt, version);
+        return id;
+    }
+
+    private List<Map<String, Object>> findCustomer(UUID id) {
+        return jdbcTemplate.queryForList("SELECT * FROM CUSTOMER WHERE ID = ?", id);
+    }
+
+    private List<Map<String, Object>> findArchivedCustomer(UUID id) {
+        return jdbcTemplate.queryForList("SELECT * FROM CUSTOMER_ARCHIVE WHERE ID = ?", id);
+    }
+}
@@ -0,0 +1,102 @@
+package com.gabriel.park_api.application.customer.service;
+
+import com.gabriel.park_api.application.customer.repository.ArchivedCustomerRepository;
+import com.gabriel.park_api.application.customer.repository.CustomerRepository;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.gabriel.park_api.application.customer.enums.CustomerStatus.INACTIVE;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CustomerArchiveServiceTest {
+
+    private CustomerArchiveService service;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ArchivedCustomerRepository archivedCustomerRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalDateTime inactiveBefore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CustomerArchiveService(customerRepository, archivedCustomerRepository, meterRegistry);
+        inactiveBefore = LocalDateTime.now().minusDays(30);
+    }
+
+    @Test
+    void archiveBatchShouldMoveCustomersToArchiveWhenEligible() {
+        var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(customerRepository.findIdsByStatusAndUpdatedAtBefore(INACTIVE, inactiveBefore, Limit.of(10))).thenReturn(ids);
+
+        var archived = service.archiveBatch(inactiveBefore, 10);
+
+        assertThat(archived).isEqualTo(2);
+        verify(archivedCustomerRepository, times(1)).archiveAllById(eq(ids), any(LocalDateTime.class));
+        verify(customerRepository, times(1)).deleteAllByIdInBatch(ids);
+        assertThat(meterRegistry.counter("customer.archive.archived").count()).isEqualTo(2);
+    }
+
+    @Test
+    void archiveBatchShouldDoNothingWhenNoCustomerIsEligible() {
+        when(customerRepository.findIdsByStatusAndUpdatedAtBefore(INACTIVE, inactiveBefore, Limit.of(10))).thenReturn(List.of());
+
+        var archived = service.archiveBatch(inactiveBefore, 10);
+
+        assertThat(archived).isZero();
+        verifyNoInteractions(archivedCustomerRepository);
+        verify(customerRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void restoreByIdShouldMoveCustomerBackWhenArchived() {
+        var customerId = UUID.randomUUID();
+        when(customerRepository.restoreById(eq(customerId), any(LocalDateTime.class))).thenReturn(1);
+
+        service.restoreById(customerId);
+
+        verify(archivedCustomerRepository, times(1)).deleteAllByIdInBatch(List.of(customerId));
+        assertThat(meterRegistry.counter("customer.archive.restored").count()).isEqualTo(1);
+    }
+
+    @Test
+    void restoreByIdShouldThrowExceptionWhenCustomerIsNotArchived() {
+        var customerId = UUID.randomUUID();
+        when(customerRepository.restoreById(eq(customerId), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThatExceptionOfType(CustomerNotFoundException.class)
+                .isThrownBy(() -> service.restoreById(customerId))
+                .withMessage(format("Archived customer with id %s not found", customerId));
+
+        verifyNoInteractions(archivedCustomerRepository);
+    }
+
+    @Test
+    void refreshBacklogShouldPublishEligibleCustomersCount() {
+        when(customerRepository.countByStatusAndUpdatedAtBefore(INACTIVE, inactiveBefore)).thenReturn(42L);
+
+        service.refreshBacklog(inactiveBefore);
+
+        assertThat(meterRegistry.get("customer.archive.backlog").gauge().value()).isEqualTo(42);
+    }
+}
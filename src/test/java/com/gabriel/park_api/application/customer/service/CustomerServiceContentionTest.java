@@ -0,0 +1,171 @@
+package com.gabriel.park_api.application.customer.service;
+
+import com.gabriel.park_api.application.customer.dto.CustomerPatchRequest;
+import com.gabriel.park_api.application.customer.enums.CustomerStatus;
+import com.gabriel.park_api.application.customer.enums.CustomerType;
+import com.gabriel.park_api.application.customer.model.Customer;
+import com.gabriel.park_api.application.customer.repository.CustomerRepository;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerVersionMismatchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class CustomerServiceContentionTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CustomerService service;
+
+    @Autowired
+    private CustomerRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private List<UUID> customerIds;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        customerIds = IntStream.range(0, THREADS)
+                .mapToObj(i -> repository.save(Customer.builder()
+                        .name("Contention " + i)
+                        .email("contention" + i + "@test.com")
+                        .type(CustomerType.VENDOR)
+                        .status(CustomerStatus.ACTIVE)
+                        .build()).getId())
+                .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        repository.deleteAllByIdInBatch(customerIds);
+    }
+
+    @Test
+    void concurrentPatchesWithSameVersionShouldLetExactlyOneWin() throws Exception {
+        var customerId = customerIds.get(0);
+
+        var results = runConcurrently(i -> () -> {
+            try {
+                service.patchById(customerId, new CustomerPatchRequest("Writer " + i, null, null), 0L);
+                return true;
+            } catch (CustomerVersionMismatchException ex) {
+                return false;
+            }
+        });
+
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(repository.findVersionByIdAndStatus(customerId, CustomerStatus.ACTIVE)).contains(1L);
+    }
+
+    @Test
+    void concurrentPatchesOnDifferentCustomersShouldAllSucceed() throws Exception {
+        var results = runConcurrently(i -> () -> {
+            service.patchById(customerIds.get(i), new CustomerPatchRequest(null, null, CustomerType.BUSINESS), 0L);
+            return true;
+        });
+
+        assertThat(results).hasSize(THREADS).containsOnly(true);
+        assertThat(repository.findAllById(customerIds))
+                .extracting(Customer::getType, Customer::getVersion)
+                .containsOnly(tuple(CustomerType.BUSINESS, 1L));
+    }
+
+    @Test
+    void concurrentUnconditionalPatchesShouldAllBeApplied() throws Exception {
+        var customerId = customerIds.get(0);
+
+        var results = runConcurrently(i -> () -> {
+            service.patchById(customerId, new CustomerPatchRequest("Writer " + i, null, null), null);
+            return true;
+        });
+
+        assertThat(results).hasSize(THREADS).containsOnly(true);
+        assertThat(repository.findVersionByIdAndStatus(customerId, CustomerStatus.ACTIVE)).contains((long) THREADS);
+    }
+
+    @Test
+    void patchShouldNotWaitForRowLockHeldOnAnotherCustomer() throws Exception {
+        var lockedId = customerIds.get(0);
+        var otherId = customerIds.get(1);
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var lockHolder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            service.patchById(lockedId, new CustomerPatchRequest("Lock holder", null, null), null);
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var otherPatch = executor.submit(() ->
+                service.patchById(otherId, new CustomerPatchRequest("Other writer", null, null), null));
+        var lockedPatch = executor.submit(() ->
+                service.patchById(lockedId, new CustomerPatchRequest("Blocked writer", null, null), null));
+
+        otherPatch.get(500, TimeUnit.MILLISECONDS);
+        assertThatExceptionOfType(TimeoutException.class)
+                .isThrownBy(() -> lockedPatch.get(500, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        lockHolder.get(5, TimeUnit.SECONDS);
+        lockedPatch.get(5, TimeUnit.SECONDS);
+
+        assertThat(repository.findVersionByIdAndStatus(otherId, CustomerStatus.ACTIVE)).contains(1L);
+        assertThat(repository.findVersionByIdAndStatus(lockedId, CustomerStatus.ACTIVE)).contains(2L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Boolean> runConcurrently(IntFunction<Callable<Boolean>> task) throws Exception {
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<Boolean>>();
+
+        for (int i = 0; i < THREADS; i++) {
+            var callable = task.apply(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return callable.call();
+            }));
+        }
+
+        start.countDown();
+
+        var results = new ArrayList<Boolean>();
+        for (var future : futures)
+            results.add(future.get(10, TimeUnit.SECONDS));
+        return results;
+    }
+}
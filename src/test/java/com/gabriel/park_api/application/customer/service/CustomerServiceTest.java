@@ -1,12 +1,18 @@
 package com.gabriel.park_api.application.customer.service;
 
+import com.gabriel.park_api.application.customer.dto.CustomerPatchRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerRequest;
 import com.gabriel.park_api.application.customer.dto.CustomerResponse;
+import com.gabriel.park_api.application.customer.enums.CustomerField;
 import com.gabriel.park_api.application.customer.enums.CustomerStatus;
+import com.gabriel.park_api.application.customer.enums.CustomerType;
 import com.gabriel.park_api.application.customer.model.Customer;
 import com.gabriel.park_api.application.customer.repository.CustomerRepository;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerAlreadyExistsException;
 import com.gabriel.park_api.infrastructure.exception.model.CustomerNotFoundException;
+import com.gabriel.park_api.infrastructure.exception.model.CustomerVersionMismatchException;
+import com.gabriel.park_api.infrastructure.exception.model.InvalidFieldException;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -16,8 +22,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.gabriel.park_api.application.customer.utils.CustomerTestUtils.createCustomer;
@@ -25,6 +34,7 @@ import static com.gabriel.park_api.application.customer.utils.CustomerTestUtils.
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.*;
 
 class CustomerServiceTest {
@@ -86,6 +96,44 @@ class CustomerServiceTest {
         assertThat(result.getContent()).isEmpty();
     }
 
+    @Test
+    void findAllShouldQueryOnlyRequestedFieldsWhenFieldsAreGiven() {
+        var pageable = PageRequest.of(0, 10);
+        var fields = EnumSet.of(CustomerField.ID, CustomerField.NAME);
+        var tuple = mock(Tuple.class);
+        when(tuple.get("id")).thenReturn(customerId);
+        when(tuple.get("name")).thenReturn(customer.getName());
+        when(repository.findAllByStatus(pageable, CustomerStatus.ACTIVE, fields))
+                .thenReturn(new PageImpl<>(List.of(tuple)));
+
+        var result = service.findAll(pageable, Set.of("name", "id"));
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0))
+                .containsExactly(entry("id", customerId), entry("name", customer.getName()));
+        verify(repository, never()).findAllByStatus(pageable, CustomerStatus.ACTIVE);
+    }
+
+    @Test
+    void findAllShouldThrowExceptionWhenFieldIsNotSupported() {
+        var pageable = PageRequest.of(0, 10);
+
+        assertThatExceptionOfType(InvalidFieldException.class)
+                .isThrownBy(() -> service.findAll(pageable, Set.of("id", "password")))
+                .withMessage("Field password is not supported.");
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void findAllShouldThrowExceptionWhenNoFieldIsRequested() {
+        var pageable = PageRequest.of(0, 10);
+
+        assertThatExceptionOfType(InvalidFieldException.class)
+                .isThrownBy(() -> service.findAll(pageable, Set.of()))
+                .withMessage("At least one field should be requested.");
+    }
+
     @Test
     void findByIdShouldReturnCustomerWhenExists() {
         when(repository.findByIdAndStatus(customerId, CustomerStatus.ACTIVE)).thenReturn(Optional.of(customer));
@@ -106,6 +154,90 @@ class CustomerServiceTest {
                 .withMessage(format("Customer with id %s not found", customerId));
     }
 
+    @Test
+    void findByIdShouldReturnOnlyRequestedFieldsWhenFieldsAreGiven() {
+        var tuple = mock(Tuple.class);
+        when(tuple.get("email")).thenReturn(customer.getEmail());
+        when(tuple.get("version", Long.class)).thenReturn(3L);
+        when(repository.findByIdAndStatus(customerId, CustomerStatus.ACTIVE, EnumSet.of(CustomerField.EMAIL, CustomerField.VERSION)))
+                .thenReturn(Optional.of(tuple));
+
+        var result = service.findById(customerId, Set.of("email"));
+
+        assertThat(result.fields()).containsExactly(entry("email", customer.getEmail()));
+        assertThat(result.version()).isEqualTo(3L);
+    }
+
+    @Test
+    void findByIdWithFieldsShouldThrowExceptionWhenCustomerDoesNotExist() {
+        when(repository.findByIdAndStatus(customerId, CustomerStatus.ACTIVE, EnumSet.of(CustomerField.EMAIL, CustomerField.VERSION)))
+                .thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(CustomerNotFoundException.class)
+                .isThrownBy(() -> service.findById(customerId, Set.of("email")))
+                .withMessage(format("Customer with id %s not found", customerId));
+    }
+
+    @Test
+    void patchByIdShouldUpdateCustomerWhenVersionMatches() {
+        var patchRequest = new CustomerPatchRequest("Leslie", null, CustomerType.VENDOR);
+        when(repository.updateByIdAndStatusAndVersion(eq(customerId), eq(CustomerStatus.ACTIVE), eq(0L),
+                eq("Leslie"), isNull(), eq(CustomerType.VENDOR), any(LocalDateTime.class))).thenReturn(1);
+
+        service.patchById(customerId, patchRequest, 0L);
+
+        verify(repository, never()).findVersionByIdAndStatus(any(), any());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void patchByIdShouldThrowExceptionWhenVersionDoesNotMatch() {
+        var patchRequest = new CustomerPatchRequest("Leslie", null, null);
+        when(repository.updateByIdAndStatusAndVersion(eq(customerId), eq(CustomerStatus.ACTIVE), eq(0L),
+                any(), any(), any(), any(LocalDateTime.class))).thenReturn(0);
+        when(repository.findVersionByIdAndStatus(customerId, CustomerStatus.ACTIVE)).thenReturn(Optional.of(2L));
+
+        assertThatExceptionOfType(CustomerVersionMismatchException.class)
+                .isThrownBy(() -> service.patchById(customerId, patchRequest, 0L))
+                .withMessage(format("Customer with id %s is at version 2, not 0.", customerId));
+    }
+
+    @Test
+    void patchByIdShouldThrowExceptionWhenCustomerDoesNotExist() {
+        var patchRequest = new CustomerPatchRequest("Leslie", null, null);
+        when(repository.updateByIdAndStatusAndVersion(eq(customerId), eq(CustomerStatus.ACTIVE), isNull(),
+                any(), any(), any(), any(LocalDateTime.class))).thenReturn(0);
+        when(repository.findVersionByIdAndStatus(customerId, CustomerStatus.ACTIVE)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(CustomerNotFoundException.class)
+                .isThrownBy(() -> service.patchById(customerId, patchRequest, null))
+                .withMessage(format("Customer with id %s not found", customerId));
+    }
+
+    @Test
+    void patchByIdShouldThrowExceptionWhenEmailBelongsToAnotherCustomer() {
+        var patchRequest = new CustomerPatchRequest(null, "taken@test.com", null);
+        var other = createCustomer(UUID.randomUUID(), request);
+        when(repository.findByEmailAndStatus("taken@test.com", CustomerStatus.ACTIVE)).thenReturn(Optional.of(other));
+
+        assertThatExceptionOfType(CustomerAlreadyExistsException.class)
+                .isThrownBy(() -> service.patchById(customerId, patchRequest, 0L))
+                .withMessage("Customer with email taken@test.com already exists.");
+
+        verify(repository, never()).updateByIdAndStatusAndVersion(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void patchByIdShouldAllowKeepingOwnEmail() {
+        var patchRequest = new CustomerPatchRequest(null, customer.getEmail(), null);
+        when(repository.findByEmailAndStatus(customer.getEmail(), CustomerStatus.ACTIVE)).thenReturn(Optional.of(customer));
+        when(repository.updateByIdAndStatusAndVersion(eq(customerId), eq(CustomerStatus.ACTIVE), eq(0L),
+                any(), eq(customer.getEmail()), any(), any(LocalDateTime.class))).thenReturn(1);
+
+        service.patchById(customerId, patchRequest, 0L);
+    }
+
     @Test
     void inactivateByIdShouldSetStatusToInactiveWhenCustomerExists() {
         when(repository.findById(customerId)).thenReturn(Optional.of(customer));
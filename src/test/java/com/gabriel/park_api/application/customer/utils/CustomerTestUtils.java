@@ -27,7 +27,8 @@ public class CustomerTestUtils {
                 CustomerType.BUSINESS,
                 CustomerStatus.ACTIVE,
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                0L
         );
     }
 
@@ -38,6 +39,7 @@ public class CustomerTestUtils {
                 .email(request.email())
                 .type(request.type())
                 .status(CustomerStatus.ACTIVE)
+                .version(0L)
                 .build();
     }
 }
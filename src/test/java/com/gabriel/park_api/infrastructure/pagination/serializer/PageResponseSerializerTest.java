@@ -0,0 +1,39 @@
+package com.gabriel.park_api.infrastructure.pagination.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.park_api.infrastructure.pagination.dto.PageResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteCompactEnvelope() throws Exception {
+        var page = new PageImpl<>(List.of(1, 2), PageRequest.of(1, 2), 5);
+
+        var json = objectMapper.writeValueAsString(PageResponse.of(page, item -> "item-" + item));
+
+        assertThat(json).isEqualTo("{\"content\":[\"item-1\",\"item-2\"],\"page\":1,\"size\":2,\"totalElements\":5,\"totalPages\":3}");
+    }
+
+    @Test
+    void shouldMapEachItemOnceWhenSerializing() throws Exception {
+        var mapped = new AtomicInteger();
+        var page = new PageImpl<>(List.of(1, 2, 3));
+
+        objectMapper.writeValueAsString(PageResponse.of(page, item -> {
+            mapped.incrementAndGet();
+            return item;
+        }));
+
+        assertThat(mapped).hasValue(3);
+    }
+}